@@ -1,8 +1,7 @@
 package com.reactnativedynamicsplash;
 
+import android.app.Activity;
 import android.content.Context;
-import android.graphics.Canvas;
-import android.graphics.ImageDecoder;
 import android.graphics.drawable.AnimatedImageDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
@@ -10,11 +9,9 @@ import android.util.AttributeSet;
 import android.widget.ImageView;
 
 import java.io.File;
-import java.io.IOException;
 
 public class AnimatedImageView extends ImageView {
   private AnimatedImageDrawable animatedDrawable;
-  private android.graphics.Bitmap loadedBitmap;
 
   public AnimatedImageView(Context context) {
     super(context);
@@ -28,14 +25,16 @@ public class AnimatedImageView extends ImageView {
     super(context, attrs, defStyleAttr);
   }
 
-  private void recycleBitmap() {
-    if (loadedBitmap != null && !loadedBitmap.isRecycled()) {
-      loadedBitmap.recycle();
-      loadedBitmap = null;
-    }
+  public void setImagePath(String path) {
+    setImagePath(path, 0, 0, false);
   }
 
-  public void setImagePath(String path) {
+  /**
+   * Loads the image through {@link SplashDrawableCache}. The decoded drawable is owned by the
+   * cache, so a view created after activity recreation reuses the same instance and animated
+   * images continue from their current frame instead of being decoded again.
+   */
+  public void setImagePath(String path, int targetWidth, int targetHeight, boolean staticFrame) {
     try {
       if (path == null || path.isEmpty()) {
         return;
@@ -46,54 +45,66 @@ public class AnimatedImageView extends ImageView {
         return;
       }
 
-      // Clean up previous bitmap before loading new one
-      recycleBitmap();
-
-      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
-        try {
-          ImageDecoder.Source source = ImageDecoder.createSource(file);
-          Drawable drawable = ImageDecoder.decodeDrawable(source);
-
-          if (drawable instanceof AnimatedImageDrawable) {
-            animatedDrawable = (AnimatedImageDrawable) drawable;
-            animatedDrawable.setRepeatCount(AnimatedImageDrawable.REPEAT_INFINITE);
-            setImageDrawable(animatedDrawable);
-            animatedDrawable.start();
-          } else {
-            setImageDrawable(drawable);
-          }
-        } catch (IOException e) {
-          // Silently handle IO errors - image loading is non-critical
-        } catch (OutOfMemoryError e) {
-          // Log OOM error and fail gracefully
-          android.util.Log.e("AnimatedImageView", "OutOfMemoryError loading image: " + path, e);
-        }
+      // Detach from the previous drawable before loading a new one
+      releaseImage();
+
+      Drawable drawable = SplashDrawableCache.obtain(file, targetWidth, targetHeight, staticFrame);
+      if (drawable == null) {
+        return;
+      }
+
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P && drawable instanceof AnimatedImageDrawable) {
+        animatedDrawable = (AnimatedImageDrawable) drawable;
+        setImageDrawable(animatedDrawable);
+        startPlayback();
       } else {
-        try {
-          android.graphics.Bitmap bitmap = android.graphics.BitmapFactory.decodeFile(path);
-          if (bitmap != null) {
-            loadedBitmap = bitmap;
-            setImageBitmap(bitmap);
-          }
-        } catch (OutOfMemoryError e) {
-          // Log OOM error and fail gracefully
-          android.util.Log.e("AnimatedImageView", "OutOfMemoryError decoding bitmap: " + path, e);
-        }
+        setImageDrawable(drawable);
       }
     } catch (Exception e) {
       // Silently handle any other unexpected exceptions
     }
   }
 
+  /**
+   * Stops playback and detaches the drawable from this view. The decoded image itself is
+   * released by {@link SplashDrawableCache#clear()}.
+   */
+  public void releaseImage() {
+    try {
+      if (animatedDrawable != null) {
+        animatedDrawable.stop();
+        animatedDrawable = null;
+      }
+      setImageDrawable(null);
+    } catch (Exception e) {
+      // Silently ignore errors when releasing the image
+    }
+  }
+
+  /**
+   * AnimatedImageDrawable.start() rewinds a stopped animation, so a drawable that is
+   * already playing (kept across activity recreation) is left running.
+   */
+  private void startPlayback() {
+    if (animatedDrawable != null && !animatedDrawable.isRunning()) {
+      animatedDrawable.start();
+    }
+  }
+
+  private boolean isChangingConfigurations() {
+    Context context = getContext();
+    return context instanceof Activity && ((Activity) context).isChangingConfigurations();
+  }
+
   @Override
   protected void onDetachedFromWindow() {
     super.onDetachedFromWindow();
     try {
-      if (animatedDrawable != null) {
+      // The cached drawable is reused by the recreated activity's view; stopping it here
+      // would restart playback from the first frame
+      if (animatedDrawable != null && !isChangingConfigurations()) {
         animatedDrawable.stop();
-        animatedDrawable = null;
       }
-      recycleBitmap();
     } catch (Exception e) {
       // Silently ignore errors when stopping animation
     }
@@ -104,7 +115,7 @@ public class AnimatedImageView extends ImageView {
     super.onAttachedToWindow();
     try {
       if (animatedDrawable != null) {
-        animatedDrawable.start();
+        startPlayback();
       }
     } catch (Exception e) {
       // Silently ignore errors when starting animation
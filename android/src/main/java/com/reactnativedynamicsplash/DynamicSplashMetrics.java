@@ -0,0 +1,63 @@
+package com.reactnativedynamicsplash;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class DynamicSplashMetrics {
+  private static int trimCount = 0;
+  private static int lastTrimLevel = -1;
+  private static long lastReleasedBytes = 0;
+  private static long totalReleasedBytes = 0;
+  private static final Map<String, Long> eventTimestamps = new LinkedHashMap<>();
+  private static SplashQualityTier qualityTier;
+
+  private DynamicSplashMetrics() {
+  }
+
+  public static synchronized void recordTrim(int level, long releasedBytes) {
+    trimCount++;
+    lastTrimLevel = level;
+    lastReleasedBytes = releasedBytes;
+    totalReleasedBytes += releasedBytes;
+  }
+
+  public static synchronized void recordEvent(String type, long timestamp) {
+    eventTimestamps.put(type, timestamp);
+  }
+
+  public static synchronized void recordQualityTier(SplashQualityTier tier) {
+    qualityTier = tier;
+  }
+
+  public static synchronized void resetEvents() {
+    eventTimestamps.clear();
+  }
+
+  public static synchronized WritableMap toWritableMap() {
+    WritableMap map = Arguments.createMap();
+    map.putInt("trimCount", trimCount);
+    map.putInt("lastTrimLevel", lastTrimLevel);
+    // Bytes can exceed int range for large animated frames, so report as double
+    map.putDouble("lastReleasedBytes", lastReleasedBytes);
+    map.putDouble("totalReleasedBytes", totalReleasedBytes);
+    map.putDouble("cachedBytes", SplashDrawableCache.heldBytes());
+    WritableMap events = Arguments.createMap();
+    for (Map.Entry<String, Long> entry : eventTimestamps.entrySet()) {
+      events.putDouble(entry.getKey(), entry.getValue());
+    }
+    map.putMap("events", events);
+    if (qualityTier != null) {
+      map.putString("qualityTier", qualityTier.tier);
+      WritableMap device = Arguments.createMap();
+      device.putBoolean("lowRamDevice", qualityTier.lowRamDevice);
+      device.putInt("memoryClassMb", qualityTier.memoryClassMb);
+      device.putInt("cpuCount", qualityTier.cpuCount);
+      device.putDouble("refreshRateHz", qualityTier.refreshRateHz);
+      map.putMap("device", device);
+    }
+    return map;
+  }
+}
@@ -2,20 +2,33 @@ package com.reactnativedynamicsplash;
 
 import android.app.Activity;
 import android.app.Dialog;
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.graphics.Color;
+import android.os.SystemClock;
+import android.util.DisplayMetrics;
 import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.Window;
 import android.view.WindowManager;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMarker;
+import com.facebook.react.bridge.ReactMarkerConstants;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
 
 import org.json.JSONObject;
 
@@ -27,8 +40,16 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
 
-public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implements LifecycleEventListener {
-  private static final String MODULE_NAME = "DynamicSplashNative";
+public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implements LifecycleEventListener, ComponentCallbacks2 {
+  static final String MODULE_NAME = "DynamicSplashNative";
+  private static final String EVENT_NAME = "DynamicSplashEvent";
+  private static final String EVENT_SHOWN = "shown";
+  private static final String EVENT_FIRST_FRAME_DRAWN = "firstFrameDrawn";
+  private static final String EVENT_HIDE_REQUESTED = "hideRequested";
+  private static final String EVENT_MIN_DURATION_SATISFIED = "minDurationSatisfied";
+  private static final String EVENT_MAX_DURATION_EXPIRED = "maxDurationExpired";
+  private static final String EVENT_HIDDEN = "hidden";
+  private static WeakReference<ReactApplicationContext> reactContextRef;
   private static Dialog overlayDialog;
   private static WeakReference<Activity> overlayActivityRef;
   private static String storageKey = StorageConstants.DEFAULT_STORAGE_KEY;
@@ -42,16 +63,60 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
   private static long showStartTime = 0;
   private static android.os.Handler maxDurationHandler;
   private static Runnable maxDurationRunnable;
+  private static android.os.Handler minDurationHandler;
+  private static Runnable minDurationRunnable;
   private static boolean isHiding = false;
+  private static boolean autoHideArmed = false;
+  // Set when the overlay was torn down for a configuration change; the next show() continues
+  // the same splash instead of starting a new one
+  private static boolean splashContinuing = false;
+  private static ReactMarker.MarkerListener contentAppearedListener;
+  private static ViewTreeObserver.OnDrawListener rootDrawListener;
+  private static WeakReference<View> rootContentRef;
 
   public DynamicSplashNativeModule(ReactApplicationContext reactContext) {
     super(reactContext);
+    reactContextRef = new WeakReference<>(reactContext);
     reactContext.addLifecycleEventListener(this);
+    try {
+      reactContext.getApplicationContext().registerComponentCallbacks(this);
+    } catch (Exception e) {
+      // Memory callbacks are best-effort - splash still works without them
+    }
+  }
+
+  @Override
+  public void invalidate() {
+    try {
+      getReactApplicationContext().getApplicationContext().unregisterComponentCallbacks(this);
+    } catch (Exception e) {
+      // Silently ignore errors when unregistering
+    }
+    super.invalidate();
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    trimMemoryInternal(level);
+  }
+
+  @Override
+  public void onLowMemory() {
+    trimMemoryInternal(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    // No action needed on configuration change
   }
 
   @Override
   public void onHostResume() {
-    // No action needed on resume
+    // A drawable kept across recreation is only useful if the new activity re-showed the splash
+    if (!isShowingValue()) {
+      SplashDrawableCache.clear();
+      endContinuingSplash();
+    }
   }
 
   @Override
@@ -61,33 +126,221 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
 
   @Override
   public void onHostDestroy() {
+    // Keep the decoded drawable when the activity is only being recreated so the next show()
+    // can attach it without decoding again
+    Activity activity = overlayActivityRef != null ? overlayActivityRef.get() : null;
+    boolean recreating = activity != null && activity.isChangingConfigurations();
     // Clean up dialog when host activity is destroyed to prevent memory leaks
     cleanupDialog();
+    if (!recreating) {
+      SplashDrawableCache.clear();
+    }
   }
 
-  private static void cleanupDialog() {
+  /**
+   * Levels at which a decoded image that is not on screen is released: real foreground
+   * pressure (RUNNING_LOW and above) and every level once the UI is hidden. RUNNING_MODERATE
+   * is ignored so a drawable kept for a recreating activity is not dropped needlessly.
+   */
+  private static boolean shouldReleaseOnTrim(int level) {
+    return level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW;
+  }
+
+  /**
+   * Releases splash resources that are no longer on screen. Nothing is released while the
+   * overlay is visible. The last loaded meta string is kept so getLastLoadedMeta() does not
+   * depend on memory pressure. Only trims that actually released memory are recorded.
+   */
+  private static void trimMemoryInternal(int level) {
+    try {
+      if (!shouldReleaseOnTrim(level) || isShowingValue()) {
+        return;
+      }
+      long released = SplashDrawableCache.clear();
+      if (released > 0) {
+        DynamicSplashMetrics.recordTrim(level, released);
+      }
+    } catch (Exception e) {
+      // Silently ignore errors - trimming is best-effort
+    }
+  }
+
+  /**
+   * Records the lifecycle event in metrics and pushes it to JS. Timestamps come from
+   * SystemClock.elapsedRealtime() so they are monotonic; events raised before the React
+   * instance is ready are still readable through getMetrics().
+   */
+  private static void emitEvent(String type) {
+    try {
+      long timestamp = SystemClock.elapsedRealtime();
+      DynamicSplashMetrics.recordEvent(type, timestamp);
+
+      ReactApplicationContext context = reactContextRef != null ? reactContextRef.get() : null;
+      if (context == null || !context.hasActiveReactInstance()) {
+        return;
+      }
+      WritableMap payload = Arguments.createMap();
+      payload.putString("type", type);
+      payload.putDouble("timestampMs", timestamp);
+      payload.putDouble("sinceShownMs", showStartTime > 0 ? timestamp - showStartTime : -1);
+      context
+        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+        .emit(EVENT_NAME, payload);
+    } catch (Exception e) {
+      // Silently fail - events are informational
+    }
+  }
+
+  private static void cancelDurationTimers() {
+    if (maxDurationHandler != null && maxDurationRunnable != null) {
+      maxDurationHandler.removeCallbacks(maxDurationRunnable);
+      maxDurationHandler = null;
+      maxDurationRunnable = null;
+    }
+    if (minDurationHandler != null && minDurationRunnable != null) {
+      minDurationHandler.removeCallbacks(minDurationRunnable);
+      minDurationHandler = null;
+      minDurationRunnable = null;
+    }
+  }
+
+  /**
+   * Arms native auto-hide: the first of React Native's CONTENT_APPEARED marker or a draw
+   * of the React root view with mounted children starts hiding without a JS round trip.
+   */
+  private static void installAutoHideTriggers(Activity activity) {
+    removeAutoHideTriggers();
+    // When JS re-shows the splash at runtime (showOnUpdate) the React root already has
+    // children, so the draw listener would hide it again on the next frame. Auto-hide only
+    // covers the launch path; a runtime show waits for hide() or maxDurationMs.
+    try {
+      View launchContent = activity.findViewById(android.R.id.content);
+      if (launchContent instanceof ViewGroup && hasReactContent((ViewGroup) launchContent)) {
+        return;
+      }
+    } catch (Exception e) {
+      return;
+    }
+    autoHideArmed = true;
+    try {
+      contentAppearedListener = new ReactMarker.MarkerListener() {
+        @Override
+        public void logMarker(ReactMarkerConstants name, @Nullable String tag, int instanceKey) {
+          if (name == ReactMarkerConstants.CONTENT_APPEARED) {
+            triggerAutoHide();
+          }
+        }
+      };
+      ReactMarker.addListener(contentAppearedListener);
+    } catch (Exception e) {
+      contentAppearedListener = null;
+    }
+
+    try {
+      View content = activity.findViewById(android.R.id.content);
+      if (content instanceof ViewGroup) {
+        final ViewGroup contentGroup = (ViewGroup) content;
+        rootContentRef = new WeakReference<View>(contentGroup);
+        rootDrawListener = new ViewTreeObserver.OnDrawListener() {
+          @Override
+          public void onDraw() {
+            if (hasReactContent(contentGroup)) {
+              triggerAutoHide();
+            }
+          }
+        };
+        contentGroup.getViewTreeObserver().addOnDrawListener(rootDrawListener);
+      }
+    } catch (Exception e) {
+      rootDrawListener = null;
+      rootContentRef = null;
+    }
+  }
+
+  private static boolean hasReactContent(ViewGroup content) {
+    // The React root view is the content view's child; it has children once JS has rendered
+    if (content.getChildCount() == 0) return false;
+    View rootView = content.getChildAt(0);
+    return rootView instanceof ViewGroup && ((ViewGroup) rootView).getChildCount() > 0;
+  }
+
+  private static void triggerAutoHide() {
+    // Markers can be logged off the UI thread, and draw listeners cannot be removed mid-draw
+    new android.os.Handler(android.os.Looper.getMainLooper()).post(new Runnable() {
+      @Override
+      public void run() {
+        if (!autoHideArmed) return;
+        hideInternal();
+      }
+    });
+  }
+
+  private static void removeAutoHideTriggers() {
+    autoHideArmed = false;
+    try {
+      if (contentAppearedListener != null) {
+        ReactMarker.removeListener(contentAppearedListener);
+      }
+    } catch (Exception ignored) {
+    }
+    contentAppearedListener = null;
     try {
-      if (maxDurationHandler != null && maxDurationRunnable != null) {
-        maxDurationHandler.removeCallbacks(maxDurationRunnable);
-        maxDurationHandler = null;
-        maxDurationRunnable = null;
+      View content = rootContentRef != null ? rootContentRef.get() : null;
+      if (content != null && rootDrawListener != null) {
+        ViewTreeObserver observer = content.getViewTreeObserver();
+        if (observer.isAlive()) {
+          observer.removeOnDrawListener(rootDrawListener);
+        }
       }
+    } catch (Exception ignored) {
+    }
+    rootDrawListener = null;
+    rootContentRef = null;
+  }
+
+  private static void cleanupDialog() {
+    boolean wasShowing = false;
+    Activity activity = overlayActivityRef != null ? overlayActivityRef.get() : null;
+    boolean recreating = activity != null && activity.isChangingConfigurations();
+    try {
+      cancelDurationTimers();
+      removeAutoHideTriggers();
       if (overlayDialog != null) {
         if (overlayDialog.isShowing()) {
+          wasShowing = true;
           overlayDialog.dismiss();
         }
         overlayDialog = null;
       }
       overlayActivityRef = null;
-      showStartTime = 0;
-      isHiding = false;
     } catch (Exception e) {
       // Ensure cleanup even if errors occur
       overlayDialog = null;
       overlayActivityRef = null;
-      showStartTime = 0;
-      isHiding = false;
     }
+    boolean wasHiding = isHiding;
+    isHiding = false;
+    if (wasShowing && recreating && !wasHiding) {
+      // The recreated activity re-shows the splash, so it has not ended: keep the start time
+      // and recorded events, and emit "hidden" only if the re-show does not happen
+      splashContinuing = true;
+      return;
+    }
+    // Teardown also ends the splash, so listeners waiting for "hidden" are released
+    if (wasShowing) {
+      emitEvent(EVENT_HIDDEN);
+    }
+    showStartTime = 0;
+  }
+
+  /**
+   * Ends a splash carried over from a recreated activity that was not shown again.
+   */
+  private static void endContinuingSplash() {
+    if (!splashContinuing) return;
+    splashContinuing = false;
+    emitEvent(EVENT_HIDDEN);
+    showStartTime = 0;
   }
 
   @NonNull
@@ -96,7 +349,12 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
     return MODULE_NAME;
   }
 
-  private static View createOverlayView(Activity activity, String imagePath, String backgroundColor) {
+  private static View createOverlayView(
+    Activity activity,
+    String imagePath,
+    String backgroundColor,
+    SplashQualityTier quality
+  ) {
     try {
       FrameLayout container = new FrameLayout(activity);
       int color = parseColor(backgroundColor);
@@ -104,7 +362,14 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
 
       AnimatedImageView imageView = new AnimatedImageView(activity);
       imageView.setScaleType(ImageView.ScaleType.CENTER_CROP);
-      imageView.setImagePath(imagePath);
+      // Decode against the longest display edge in both directions so the cached drawable
+      // covers the screen in either orientation and survives rotation
+      DisplayMetrics metrics = Resources.getSystem().getDisplayMetrics();
+      int targetSize = Math.max(metrics.widthPixels, metrics.heightPixels);
+      if (quality.isReduced()) {
+        targetSize = Math.max(1, Math.round(targetSize * quality.reducedResolutionScale));
+      }
+      imageView.setImagePath(imagePath, targetSize, targetSize, quality.isStatic());
       imageView.setLayoutParams(
         new FrameLayout.LayoutParams(
           FrameLayout.LayoutParams.MATCH_PARENT,
@@ -214,26 +479,34 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
   }
 
   public static void show(Activity activity) {
+    // Drop a drawable kept from a recreated activity when this show() does not reuse it
+    if (!showOverlay(activity) && !isShowingValue()) {
+      SplashDrawableCache.clear();
+      endContinuingSplash();
+    }
+  }
+
+  private static boolean showOverlay(Activity activity) {
     try {
-      if (activity == null || activity.isFinishing()) return;
-      if (overlayDialog != null && overlayDialog.isShowing()) return;
+      if (activity == null || activity.isFinishing()) return false;
+      if (overlayDialog != null && overlayDialog.isShowing()) return false;
 
       String raw = getStoredMeta(activity);
       lastLoadedMetaRaw = raw;
-      if (raw == null) return;
+      if (raw == null) return false;
       
       JSONObject json = new JSONObject(raw);
-      if (!"READY".equals(json.optString("status"))) return;
+      if (!"READY".equals(json.optString("status"))) return false;
 
       long start = parseDate(json.optString("startAt"));
       long end = parseDate(json.optString("endAt"));
       long now = System.currentTimeMillis();
-      if (start <= 0 || end <= 0 || now < start || now > end) return;
+      if (start <= 0 || end <= 0 || now < start || now > end) return false;
 
       String localPath = json.optString("localPath", null);
-      if (localPath == null) return;
+      if (localPath == null) return false;
       File file = new File(localPath);
-      if (!file.exists()) return;
+      if (!file.exists()) return false;
 
       String backgroundColor = json.optString("backgroundColor", null);
       fadeEnabled = json.optBoolean("enableFade", true);
@@ -247,13 +520,21 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
       }
       int minDurationMs = json.optInt("minDurationMs", 0);
       int maxDurationMs = json.optInt("maxDurationMs", 0);
+      boolean autoHideOnFirstRender = json.optBoolean("autoHideOnFirstRender", false);
+      SplashQualityTier quality = SplashQualityTier.classify(activity, json.optJSONObject("qualityTiers"));
+      DynamicSplashMetrics.recordQualityTier(quality);
       
-      showStartTime = System.currentTimeMillis();
+      boolean continuing = splashContinuing && showStartTime > 0;
+      if (!continuing) {
+        showStartTime = SystemClock.elapsedRealtime();
+        DynamicSplashMetrics.resetEvents();
+      }
+      long elapsedMs = SystemClock.elapsedRealtime() - showStartTime;
       overlayActivityRef = new WeakReference<>(activity);
 
       overlayDialog = new Dialog(activity, android.R.style.Theme_Translucent_NoTitleBar_Fullscreen);
       overlayDialog.requestWindowFeature(Window.FEATURE_NO_TITLE);
-      overlayDialog.setContentView(createOverlayView(activity, localPath, backgroundColor));
+      overlayDialog.setContentView(createOverlayView(activity, localPath, backgroundColor, quality));
       overlayDialog.setCancelable(false);
       Window window = overlayDialog.getWindow();
       if (window != null) {
@@ -261,9 +542,37 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
         window.addFlags(WindowManager.LayoutParams.FLAG_NOT_FOCUSABLE);
       }
       overlayDialog.show();
+      splashContinuing = false;
+      if (!continuing) {
+        emitEvent(EVENT_SHOWN);
+      }
+
+      if (window != null && !continuing) {
+        final View drawnView = window.getDecorView();
+        drawnView.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+          private boolean drawn = false;
+
+          @Override
+          public void onDraw() {
+            if (drawn) return;
+            drawn = true;
+            final ViewTreeObserver.OnDrawListener listener = this;
+            // Listeners cannot be removed while the draw pass is dispatching
+            drawnView.post(new Runnable() {
+              @Override
+              public void run() {
+                try {
+                  drawnView.getViewTreeObserver().removeOnDrawListener(listener);
+                } catch (Exception ignored) {}
+                emitEvent(EVENT_FIRST_FRAME_DRAWN);
+              }
+            });
+          }
+        });
+      }
 
-      // Apply scale-in animation if configured
-      if (scaleStart != null && scaleEnd != null && scaleDurationMs != null) {
+      // Apply scale-in animation if configured; the static tier renders without it
+      if (scaleStart != null && scaleEnd != null && scaleDurationMs != null && !quality.isStatic()) {
         if (window != null) {
           View decorView = window.getDecorView();
           if (decorView != null) {
@@ -284,25 +593,48 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
         }
       }
       
+      cancelDurationTimers();
+
+      // Notify JS once the minimum display time has elapsed; a continued splash only waits
+      // for the remainder, and has already reported it if the minimum was met
+      if (minDurationMs > elapsedMs) {
+        minDurationHandler = new android.os.Handler(android.os.Looper.getMainLooper());
+        minDurationRunnable = new Runnable() {
+          @Override
+          public void run() {
+            minDurationHandler = null;
+            minDurationRunnable = null;
+            emitEvent(EVENT_MIN_DURATION_SATISFIED);
+          }
+        };
+        minDurationHandler.postDelayed(minDurationRunnable, minDurationMs - elapsedMs);
+      } else if (!continuing) {
+        emitEvent(EVENT_MIN_DURATION_SATISFIED);
+      }
+
       // Set up auto-hide timer if maxDurationMs is specified
       if (maxDurationMs > 0) {
-        if (maxDurationHandler != null && maxDurationRunnable != null) {
-          maxDurationHandler.removeCallbacks(maxDurationRunnable);
-        }
         maxDurationHandler = new android.os.Handler(android.os.Looper.getMainLooper());
         maxDurationRunnable = new Runnable() {
           @Override
           public void run() {
+            emitEvent(EVENT_MAX_DURATION_EXPIRED);
             hideInternal();
           }
         };
-        maxDurationHandler.postDelayed(maxDurationRunnable, maxDurationMs);
+        maxDurationHandler.postDelayed(maxDurationRunnable, Math.max(0, maxDurationMs - elapsedMs));
+      }
+
+      if (autoHideOnFirstRender) {
+        installAutoHideTriggers(activity);
       }
+      return true;
     } catch (Exception e) {
       // Silently fail to prevent crashes - splash is optional
       overlayDialog = null;
       overlayActivityRef = null;
       showStartTime = 0;
+      return false;
     }
   }
 
@@ -314,6 +646,8 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
       }
       if (overlayDialog != null && overlayDialog.isShowing()) {
         isHiding = true;
+        removeAutoHideTriggers();
+        emitEvent(EVENT_HIDE_REQUESTED);
 
         // Cancel max duration timer if it exists
         if (maxDurationHandler != null && maxDurationRunnable != null) {
@@ -333,7 +667,7 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
           } catch (Exception ignored) {}
         }
 
-        long elapsed = System.currentTimeMillis() - showStartTime;
+        long elapsed = SystemClock.elapsedRealtime() - showStartTime;
         long remaining = minDurationMs - elapsed;
 
         if (remaining > 0) {
@@ -376,8 +710,10 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
                     }
                     overlayDialog = null;
                     overlayActivityRef = null;
-                    showStartTime = 0;
                     isHiding = false;
+                    SplashDrawableCache.clear();
+                    emitEvent(EVENT_HIDDEN);
+                    showStartTime = 0;
                   }
                 })
                 .start();
@@ -389,8 +725,10 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
         overlayDialog.dismiss();
         overlayDialog = null;
         overlayActivityRef = null;
-        showStartTime = 0;
         isHiding = false;
+        SplashDrawableCache.clear();
+        emitEvent(EVENT_HIDDEN);
+        showStartTime = 0;
       }
     } catch (Exception e) {
       // Ensure cleanup even if animation or dismiss fails
@@ -408,6 +746,14 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
     return storageKey;
   }
 
+  public static String getLastLoadedMetaValue() {
+    return lastLoadedMetaRaw;
+  }
+
+  public static boolean isShowingValue() {
+    return overlayDialog != null && overlayDialog.isShowing();
+  }
+
   @ReactMethod
   public void show() {
     try {
@@ -456,17 +802,35 @@ public class DynamicSplashNativeModule extends ReactContextBaseJavaModule implem
   @ReactMethod
   public void getLastLoadedMeta(Promise promise) {
     try {
-      promise.resolve(lastLoadedMetaRaw);
+      promise.resolve(getLastLoadedMetaValue());
     } catch (Exception e) {
       promise.reject("META_ERROR", "Failed to get last loaded meta", e);
     }
   }
   
+  @ReactMethod
+  public void addListener(String eventName) {
+    // Required by NativeEventEmitter; events are emitted regardless of listener count
+  }
+
+  @ReactMethod
+  public void removeListeners(double count) {
+    // Required by NativeEventEmitter
+  }
+
+  @ReactMethod
+  public void getMetrics(Promise promise) {
+    try {
+      promise.resolve(DynamicSplashMetrics.toWritableMap());
+    } catch (Exception e) {
+      promise.reject("METRICS_ERROR", "Failed to get metrics", e);
+    }
+  }
+
   @ReactMethod
   public void isShowing(Promise promise) {
     try {
-      boolean showing = overlayDialog != null && overlayDialog.isShowing();
-      promise.resolve(showing);
+      promise.resolve(isShowingValue());
     } catch (Exception e) {
       promise.reject("STATUS_ERROR", "Failed to check if showing", e);
     }
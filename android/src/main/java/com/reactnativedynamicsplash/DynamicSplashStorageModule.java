@@ -11,7 +11,7 @@ import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.Promise;
 
 public class DynamicSplashStorageModule extends ReactContextBaseJavaModule {
-  private static final String MODULE_NAME = "DynamicSplashStorage";
+  static final String MODULE_NAME = "DynamicSplashStorage";
 
   public DynamicSplashStorageModule(ReactApplicationContext reactContext) {
     super(reactContext);
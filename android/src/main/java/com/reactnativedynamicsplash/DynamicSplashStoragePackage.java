@@ -1,24 +1,69 @@
 package com.reactnativedynamicsplash;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
-import com.facebook.react.ReactPackage;
+import com.facebook.react.TurboReactPackage;
 import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
 import com.facebook.react.uimanager.ViewManager;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+public class DynamicSplashStoragePackage extends TurboReactPackage {
+  @Nullable
+  @Override
+  public NativeModule getModule(@NonNull String name, @NonNull ReactApplicationContext reactContext) {
+    switch (name) {
+      case DynamicSplashStorageModule.MODULE_NAME:
+        return DynamicSplashModuleFactory.createStorageModule(reactContext);
+      case DynamicSplashNativeModule.MODULE_NAME:
+        return DynamicSplashModuleFactory.createNativeModule(reactContext);
+      default:
+        return null;
+    }
+  }
 
-public class DynamicSplashStoragePackage implements ReactPackage {
-  @NonNull
   @Override
-  public List<NativeModule> createNativeModules(@NonNull ReactApplicationContext reactContext) {
-    List<NativeModule> modules = new ArrayList<>();
-    modules.add(new DynamicSplashStorageModule(reactContext));
-    modules.add(new DynamicSplashNativeModule(reactContext));
-    return modules;
+  public ReactModuleInfoProvider getReactModuleInfoProvider() {
+    return new ReactModuleInfoProvider() {
+      @NonNull
+      @Override
+      public Map<String, ReactModuleInfo> getReactModuleInfos() {
+        Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+        // The 7-argument constructor is deprecated in newer React Native but keeps 0.70+ building
+        moduleInfos.put(
+          DynamicSplashStorageModule.MODULE_NAME,
+          new ReactModuleInfo(
+            DynamicSplashStorageModule.MODULE_NAME,
+            DynamicSplashModuleFactory.STORAGE_MODULE_CLASS_NAME,
+            false, // canOverrideExistingModule
+            false, // needsEagerInit
+            false, // hasConstants
+            false, // isCxxModule
+            DynamicSplashModuleFactory.IS_TURBO_MODULE
+          )
+        );
+        moduleInfos.put(
+          DynamicSplashNativeModule.MODULE_NAME,
+          new ReactModuleInfo(
+            DynamicSplashNativeModule.MODULE_NAME,
+            DynamicSplashModuleFactory.NATIVE_MODULE_CLASS_NAME,
+            false, // canOverrideExistingModule
+            true, // needsEagerInit: registers memory callbacks and the event context early
+            false, // hasConstants
+            false, // isCxxModule
+            DynamicSplashModuleFactory.IS_TURBO_MODULE
+          )
+        );
+        return moduleInfos;
+      }
+    };
   }
 
   @NonNull
@@ -0,0 +1,213 @@
+package com.reactnativedynamicsplash;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.ImageDecoder;
+import android.graphics.drawable.AnimatedImageDrawable;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.util.Size;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Process-level cache of the decoded splash drawable.
+ *
+ * The cache lives outside the Activity lifecycle so that an overlay re-shown after
+ * activity recreation (rotation, dark mode, multi-window) attaches the already decoded
+ * drawable instead of decoding the file again. Only a single entry is kept because only
+ * one splash is ever on screen.
+ */
+public final class SplashDrawableCache {
+  private static Key cachedKey;
+  private static Drawable cachedDrawable;
+
+  private SplashDrawableCache() {
+  }
+
+  private static final class Key {
+    final String path;
+    final long lastModified;
+    final long length;
+    final int targetWidth;
+    final int targetHeight;
+    final boolean staticFrame;
+
+    Key(File file, int targetWidth, int targetHeight, boolean staticFrame) {
+      this.path = file.getAbsolutePath();
+      this.lastModified = file.lastModified();
+      this.length = file.length();
+      this.targetWidth = targetWidth;
+      this.targetHeight = targetHeight;
+      this.staticFrame = staticFrame;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Key)) return false;
+      Key key = (Key) other;
+      return lastModified == key.lastModified
+        && length == key.length
+        && targetWidth == key.targetWidth
+        && targetHeight == key.targetHeight
+        && staticFrame == key.staticFrame
+        && path.equals(key.path);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = path.hashCode();
+      result = 31 * result + (int) (lastModified ^ (lastModified >>> 32));
+      result = 31 * result + (int) (length ^ (length >>> 32));
+      result = 31 * result + targetWidth;
+      result = 31 * result + targetHeight;
+      result = 31 * result + (staticFrame ? 1 : 0);
+      return result;
+    }
+  }
+
+  /**
+   * Returns the decoded drawable for the file, decoding it only if the cached entry does not
+   * match the file's path, modification time, size and the target dimensions. Images larger
+   * than the target are downsampled so they still cover it; pass 0 to decode at full size.
+   * With staticFrame, animated images are decoded as their first frame only.
+   */
+  public static synchronized Drawable obtain(File file, int targetWidth, int targetHeight, boolean staticFrame) {
+    Key key = new Key(file, targetWidth, targetHeight, staticFrame);
+    if (cachedDrawable != null && key.equals(cachedKey)) {
+      return cachedDrawable;
+    }
+
+    Drawable drawable = decode(file, targetWidth, targetHeight, staticFrame);
+    if (drawable != null) {
+      clear();
+      cachedKey = key;
+      cachedDrawable = drawable;
+    }
+    return drawable;
+  }
+
+  /**
+   * Drops the cached drawable and returns an estimate of the bytes released.
+   */
+  public static synchronized long clear() {
+    long released = estimateDrawableBytes(cachedDrawable);
+    try {
+      if (cachedDrawable instanceof BitmapDrawable) {
+        Bitmap bitmap = ((BitmapDrawable) cachedDrawable).getBitmap();
+        if (bitmap != null && !bitmap.isRecycled()) {
+          bitmap.recycle();
+        }
+      } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P
+        && cachedDrawable instanceof AnimatedImageDrawable) {
+        ((AnimatedImageDrawable) cachedDrawable).stop();
+      }
+    } catch (Exception e) {
+      // Silently ignore errors when releasing the drawable
+    }
+    cachedKey = null;
+    cachedDrawable = null;
+    return released;
+  }
+
+  /**
+   * Estimated bytes currently held by the cache; 0 when nothing is decoded.
+   */
+  public static synchronized long heldBytes() {
+    return estimateDrawableBytes(cachedDrawable);
+  }
+
+  static long estimateDrawableBytes(Drawable drawable) {
+    if (drawable == null) {
+      return 0;
+    }
+    if (drawable instanceof BitmapDrawable) {
+      Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+      if (bitmap != null && !bitmap.isRecycled()) {
+        return bitmap.getAllocationByteCount();
+      }
+      return 0;
+    }
+    // Animated drawables keep an ARGB_8888 frame buffer of the intrinsic size
+    int width = Math.max(drawable.getIntrinsicWidth(), 0);
+    int height = Math.max(drawable.getIntrinsicHeight(), 0);
+    return (long) width * height * 4;
+  }
+
+  private static Drawable decode(File file, final int targetWidth, final int targetHeight, boolean staticFrame) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+      try {
+        ImageDecoder.Source source = ImageDecoder.createSource(file);
+        ImageDecoder.OnHeaderDecodedListener listener = new ImageDecoder.OnHeaderDecodedListener() {
+          @Override
+          public void onHeaderDecoded(ImageDecoder decoder, ImageDecoder.ImageInfo info, ImageDecoder.Source src) {
+            Size size = info.getSize();
+            float scale = coverScale(size.getWidth(), size.getHeight(), targetWidth, targetHeight);
+            if (scale < 1f) {
+              decoder.setTargetSize(
+                Math.max(1, Math.round(size.getWidth() * scale)),
+                Math.max(1, Math.round(size.getHeight() * scale))
+              );
+            }
+          }
+        };
+        if (staticFrame) {
+          // decodeBitmap keeps only the first frame, without the animated decoder state
+          Bitmap bitmap = ImageDecoder.decodeBitmap(source, listener);
+          return new BitmapDrawable(android.content.res.Resources.getSystem(), bitmap);
+        }
+        Drawable drawable = ImageDecoder.decodeDrawable(source, listener);
+        if (drawable instanceof AnimatedImageDrawable) {
+          ((AnimatedImageDrawable) drawable).setRepeatCount(AnimatedImageDrawable.REPEAT_INFINITE);
+        }
+        return drawable;
+      } catch (IOException e) {
+        // Silently handle IO errors - image loading is non-critical
+      } catch (OutOfMemoryError e) {
+        // Log OOM error and fail gracefully
+        android.util.Log.e("SplashDrawableCache", "OutOfMemoryError loading image: " + file, e);
+      }
+      return null;
+    }
+
+    try {
+      String path = file.getAbsolutePath();
+      BitmapFactory.Options bounds = new BitmapFactory.Options();
+      bounds.inJustDecodeBounds = true;
+      BitmapFactory.decodeFile(path, bounds);
+
+      BitmapFactory.Options options = new BitmapFactory.Options();
+      float scale = coverScale(bounds.outWidth, bounds.outHeight, targetWidth, targetHeight);
+      int sampleSize = 1;
+      while (scale > 0f && scale * sampleSize * 2 <= 1f) {
+        sampleSize *= 2;
+      }
+      options.inSampleSize = sampleSize;
+      Bitmap bitmap = BitmapFactory.decodeFile(path, options);
+      if (bitmap != null) {
+        return new BitmapDrawable(android.content.res.Resources.getSystem(), bitmap);
+      }
+    } catch (OutOfMemoryError e) {
+      // Log OOM error and fail gracefully
+      android.util.Log.e("SplashDrawableCache", "OutOfMemoryError decoding bitmap: " + file, e);
+    }
+    return null;
+  }
+
+  /**
+   * Scale at which the source still covers the target (CENTER_CROP), capped at 1.
+   */
+  private static float coverScale(int sourceWidth, int sourceHeight, int targetWidth, int targetHeight) {
+    if (sourceWidth <= 0 || sourceHeight <= 0 || targetWidth <= 0 || targetHeight <= 0) {
+      return 1f;
+    }
+    float scale = Math.max(
+      (float) targetWidth / sourceWidth,
+      (float) targetHeight / sourceHeight
+    );
+    return Math.min(scale, 1f);
+  }
+}
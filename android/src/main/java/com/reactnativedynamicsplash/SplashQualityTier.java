@@ -0,0 +1,117 @@
+package com.reactnativedynamicsplash;
+
+import android.app.Activity;
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Build;
+import android.view.Display;
+
+import org.json.JSONObject;
+
+/**
+ * Classifies the device at startup and picks how the splash is rendered:
+ * - full: animated playback at full frame rate and resolution
+ * - reduced: animated playback at a lower decode resolution
+ * - static: first frame only, no scale animation
+ *
+ * Thresholds come from the stored meta's "qualityTiers" object (InitOptions.qualityTiers).
+ */
+public final class SplashQualityTier {
+  public static final String FULL = "full";
+  public static final String REDUCED = "reduced";
+  public static final String STATIC = "static";
+
+  private static final int DEFAULT_STATIC_MAX_MEMORY_CLASS_MB = 128;
+  private static final int DEFAULT_STATIC_MAX_CPU_COUNT = 2;
+  private static final int DEFAULT_REDUCED_MAX_MEMORY_CLASS_MB = 192;
+  private static final int DEFAULT_REDUCED_MAX_CPU_COUNT = 4;
+  private static final double DEFAULT_REDUCED_BELOW_REFRESH_RATE_HZ = 60;
+  private static final double DEFAULT_REDUCED_RESOLUTION_SCALE = 0.5;
+
+  public final String tier;
+  public final boolean lowRamDevice;
+  public final int memoryClassMb;
+  public final int cpuCount;
+  public final float refreshRateHz;
+  public final float reducedResolutionScale;
+
+  private SplashQualityTier(
+    String tier,
+    boolean lowRamDevice,
+    int memoryClassMb,
+    int cpuCount,
+    float refreshRateHz,
+    float reducedResolutionScale
+  ) {
+    this.tier = tier;
+    this.lowRamDevice = lowRamDevice;
+    this.memoryClassMb = memoryClassMb;
+    this.cpuCount = cpuCount;
+    this.refreshRateHz = refreshRateHz;
+    this.reducedResolutionScale = reducedResolutionScale;
+  }
+
+  public static SplashQualityTier classify(Activity activity, JSONObject thresholds) {
+    JSONObject options = thresholds != null ? thresholds : new JSONObject();
+
+    boolean lowRam = false;
+    int memoryClass = 0;
+    try {
+      ActivityManager activityManager = (ActivityManager) activity.getSystemService(Context.ACTIVITY_SERVICE);
+      if (activityManager != null) {
+        lowRam = activityManager.isLowRamDevice();
+        memoryClass = activityManager.getMemoryClass();
+      }
+    } catch (Exception ignored) {
+    }
+    int cpuCount = Runtime.getRuntime().availableProcessors();
+    // Displays commonly report 59.94 Hz and similar for 60 Hz, so the rate is rounded
+    // before it is compared with reducedBelowRefreshRateHz
+    float refreshRate = getRefreshRate(activity);
+
+    float reducedScale = (float) options.optDouble("reducedResolutionScale", DEFAULT_REDUCED_RESOLUTION_SCALE);
+    if (Double.isNaN(reducedScale) || reducedScale <= 0f || reducedScale > 1f) {
+      reducedScale = (float) DEFAULT_REDUCED_RESOLUTION_SCALE;
+    }
+
+    String tier;
+    String forced = options.optString("forceTier", "");
+    if (FULL.equals(forced) || REDUCED.equals(forced) || STATIC.equals(forced)) {
+      tier = forced;
+    } else if (lowRam
+      || (memoryClass > 0 && memoryClass <= options.optInt("staticMaxMemoryClassMb", DEFAULT_STATIC_MAX_MEMORY_CLASS_MB))
+      || cpuCount <= options.optInt("staticMaxCpuCount", DEFAULT_STATIC_MAX_CPU_COUNT)) {
+      tier = STATIC;
+    } else if ((memoryClass > 0 && memoryClass <= options.optInt("reducedMaxMemoryClassMb", DEFAULT_REDUCED_MAX_MEMORY_CLASS_MB))
+      || cpuCount <= options.optInt("reducedMaxCpuCount", DEFAULT_REDUCED_MAX_CPU_COUNT)
+      || (refreshRate > 0 && Math.round(refreshRate) < options.optDouble("reducedBelowRefreshRateHz", DEFAULT_REDUCED_BELOW_REFRESH_RATE_HZ))) {
+      tier = REDUCED;
+    } else {
+      tier = FULL;
+    }
+
+    return new SplashQualityTier(tier, lowRam, memoryClass, cpuCount, refreshRate, reducedScale);
+  }
+
+  private static float getRefreshRate(Activity activity) {
+    try {
+      Display display;
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+        display = activity.getDisplay();
+      } else {
+        display = activity.getWindowManager().getDefaultDisplay();
+      }
+      return display != null ? display.getRefreshRate() : 0f;
+    } catch (Exception e) {
+      return 0f;
+    }
+  }
+
+  public boolean isStatic() {
+    return STATIC.equals(tier);
+  }
+
+  public boolean isReduced() {
+    return REDUCED.equals(tier);
+  }
+}
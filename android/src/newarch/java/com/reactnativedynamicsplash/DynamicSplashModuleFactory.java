@@ -0,0 +1,24 @@
+package com.reactnativedynamicsplash;
+
+import com.facebook.react.bridge.NativeModule;
+import com.facebook.react.bridge.ReactApplicationContext;
+
+/**
+ * New Architecture: modules are codegen-backed TurboModules called directly over JSI.
+ */
+final class DynamicSplashModuleFactory {
+  static final boolean IS_TURBO_MODULE = true;
+  static final String NATIVE_MODULE_CLASS_NAME = DynamicSplashNativeTurboModule.class.getName();
+  static final String STORAGE_MODULE_CLASS_NAME = DynamicSplashStorageTurboModule.class.getName();
+
+  private DynamicSplashModuleFactory() {
+  }
+
+  static NativeModule createNativeModule(ReactApplicationContext reactContext) {
+    return new DynamicSplashNativeTurboModule(reactContext);
+  }
+
+  static NativeModule createStorageModule(ReactApplicationContext reactContext) {
+    return new DynamicSplashStorageTurboModule(reactContext);
+  }
+}
@@ -0,0 +1,87 @@
+package com.reactnativedynamicsplash;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+
+/**
+ * TurboModule for DynamicSplashNative. Behaviour lives in {@link DynamicSplashNativeModule};
+ * this class exposes it through the codegen spec so that isShowing and getLastLoadedMeta
+ * are synchronous JSI calls.
+ */
+public class DynamicSplashNativeTurboModule extends NativeDynamicSplashNativeSpec {
+  private final DynamicSplashNativeModule delegate;
+
+  public DynamicSplashNativeTurboModule(ReactApplicationContext reactContext) {
+    super(reactContext);
+    delegate = new DynamicSplashNativeModule(reactContext);
+  }
+
+  @NonNull
+  @Override
+  public String getName() {
+    return DynamicSplashNativeModule.MODULE_NAME;
+  }
+
+  @Override
+  public void show() {
+    delegate.show();
+  }
+
+  @Override
+  public void hide() {
+    delegate.hide();
+  }
+
+  @Override
+  public void setStorageKey(String key) {
+    delegate.setStorageKey(key);
+  }
+
+  @Override
+  public String getStorageKey() {
+    return delegate.getStorageKey();
+  }
+
+  @Nullable
+  @Override
+  public String getLastLoadedMeta() {
+    try {
+      return DynamicSplashNativeModule.getLastLoadedMetaValue();
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean isShowing() {
+    try {
+      return DynamicSplashNativeModule.isShowingValue();
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void getMetrics(Promise promise) {
+    delegate.getMetrics(promise);
+  }
+
+  @Override
+  public void addListener(String eventName) {
+    delegate.addListener(eventName);
+  }
+
+  @Override
+  public void removeListeners(double count) {
+    delegate.removeListeners(count);
+  }
+
+  @Override
+  public void invalidate() {
+    delegate.invalidate();
+    super.invalidate();
+  }
+}
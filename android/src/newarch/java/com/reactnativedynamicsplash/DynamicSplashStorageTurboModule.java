@@ -0,0 +1,47 @@
+package com.reactnativedynamicsplash;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+
+/**
+ * TurboModule for DynamicSplashStorage. Behaviour lives in {@link DynamicSplashStorageModule};
+ * this class exposes it through the codegen spec so that getStringSync is a synchronous JSI call.
+ */
+public class DynamicSplashStorageTurboModule extends NativeDynamicSplashStorageSpec {
+  private final DynamicSplashStorageModule delegate;
+
+  public DynamicSplashStorageTurboModule(ReactApplicationContext reactContext) {
+    super(reactContext);
+    delegate = new DynamicSplashStorageModule(reactContext);
+  }
+
+  @NonNull
+  @Override
+  public String getName() {
+    return DynamicSplashStorageModule.MODULE_NAME;
+  }
+
+  @Nullable
+  @Override
+  public String getStringSync(String key) {
+    return delegate.getStringSync(key);
+  }
+
+  @Override
+  public void getString(String key, Promise promise) {
+    delegate.getString(key, promise);
+  }
+
+  @Override
+  public void setString(String key, @Nullable String value) {
+    delegate.setString(key, value);
+  }
+
+  @Override
+  public void remove(String key) {
+    delegate.remove(key);
+  }
+}
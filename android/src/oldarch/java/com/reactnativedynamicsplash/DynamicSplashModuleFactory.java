@@ -0,0 +1,24 @@
+package com.reactnativedynamicsplash;
+
+import com.facebook.react.bridge.NativeModule;
+import com.facebook.react.bridge.ReactApplicationContext;
+
+/**
+ * Old Architecture: modules are the legacy bridge implementations.
+ */
+final class DynamicSplashModuleFactory {
+  static final boolean IS_TURBO_MODULE = false;
+  static final String NATIVE_MODULE_CLASS_NAME = DynamicSplashNativeModule.class.getName();
+  static final String STORAGE_MODULE_CLASS_NAME = DynamicSplashStorageModule.class.getName();
+
+  private DynamicSplashModuleFactory() {
+  }
+
+  static NativeModule createNativeModule(ReactApplicationContext reactContext) {
+    return new DynamicSplashNativeModule(reactContext);
+  }
+
+  static NativeModule createStorageModule(ReactApplicationContext reactContext) {
+    return new DynamicSplashStorageModule(reactContext);
+  }
+}
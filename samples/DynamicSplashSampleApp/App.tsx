@@ -9,7 +9,11 @@ import {
 } from "react-native";
 import { SafeAreaView } from "react-native-safe-area-context";
 import type { SplashConfig } from "../../dist";
-import { createDynamicSplash, DynamicSplash } from "../../dist";
+import {
+	createDynamicSplash,
+	DynamicSplash,
+	measureNativeCallLatency,
+} from "../../dist";
 import { INITIAL_CONFIG, SHOWCASE_CONFIGS, splashConfig } from "./splashConfig";
 
 const LIB_VERSION = "1.0.0";
@@ -88,6 +92,15 @@ function App(): JSX.Element {
 		await loadNativeMeta();
 	}, [manager, loadNativeMeta]);
 
+	const handleBenchmark = useCallback(async () => {
+		setLastAction("Benchmark running...");
+		const report = await measureNativeCallLatency(200);
+		const summary = report.results
+			.map((result) => `${result.method} ${result.meanUs.toFixed(1)}µs`)
+			.join(", ");
+		setLastAction(`[${report.architecture}] ${summary}`);
+	}, []);
+
 	useEffect(() => {
 		void manager.mount();
 		void loadNativeMeta();
@@ -170,6 +183,11 @@ function App(): JSX.Element {
 							color="#10B981"
 							onPress={handleRefetch}
 						/>
+						<ActionButton
+							label="Benchmark Calls"
+							color="#F59E0B"
+							onPress={handleBenchmark}
+						/>
 					</View>
 				</Card>
 
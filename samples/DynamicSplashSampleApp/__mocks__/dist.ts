@@ -10,3 +10,7 @@ export const DynamicSplash = {
 	hide: jest.fn().mockResolvedValue(undefined),
 	isVisible: jest.fn().mockResolvedValue(false),
 };
+
+export const measureNativeCallLatency = jest
+	.fn()
+	.mockResolvedValue({ architecture: "legacy", results: [] });
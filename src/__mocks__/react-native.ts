@@ -12,5 +12,38 @@ export const NativeModules = {
 		setStorageKey: jest.fn(),
 		getStorageKey: jest.fn(),
 		getLastLoadedMeta: jest.fn(),
+		getMetrics: jest.fn(),
+		addListener: jest.fn(),
+		removeListeners: jest.fn(),
 	},
 };
+
+// TurboModules are unavailable in tests, so modules resolve through NativeModules
+export const TurboModuleRegistry = {
+	get: (_name: string) => null,
+	getEnforcing: (name: string) => {
+		throw new Error(`TurboModule ${name} is not available`);
+	},
+};
+
+type Listener = (...args: any[]) => void;
+const eventListeners = new Map<string, Set<Listener>>();
+
+export class NativeEventEmitter {
+	addListener(eventType: string, listener: Listener) {
+		const listeners = eventListeners.get(eventType) ?? new Set<Listener>();
+		listeners.add(listener);
+		eventListeners.set(eventType, listeners);
+		return { remove: () => listeners.delete(listener) };
+	}
+
+	emit(eventType: string, ...args: any[]) {
+		for (const listener of Array.from(eventListeners.get(eventType) ?? [])) {
+			listener(...args);
+		}
+	}
+
+	listenerCount(eventType: string) {
+		return eventListeners.get(eventType)?.size ?? 0;
+	}
+}
@@ -118,4 +118,33 @@ describe("index", () => {
 			expect(result).toBe(true);
 		});
 	});
+
+	describe("DynamicSplash.getMetrics()", () => {
+		it("returns metrics from the native module", async () => {
+			const metrics = {
+				trimCount: 1,
+				lastTrimLevel: 20,
+				lastReleasedBytes: 4096,
+				totalReleasedBytes: 4096,
+				cachedBytes: 0,
+			};
+			(
+				mockNativeModules.DynamicSplashNative.getMetrics as jest.Mock
+			).mockResolvedValue(metrics);
+
+			const result = await DynamicSplash.getMetrics();
+
+			expect(result).toEqual(metrics);
+		});
+
+		it("returns null when native call fails", async () => {
+			(
+				mockNativeModules.DynamicSplashNative.getMetrics as jest.Mock
+			).mockRejectedValue(new Error("Native error"));
+
+			const result = await DynamicSplash.getMetrics();
+
+			expect(result).toBeNull();
+		});
+	});
 });
@@ -1,5 +1,5 @@
-import { NativeModules } from "react-native";
 import { SplashFileSystem } from "../services/fileSystem";
+import { getSplashNativeModule } from "../services/nativeModules";
 import { SplashStorage } from "../services/storage";
 import { performBackgroundUpdate, processSplashConfig } from "../services/sync";
 import type { DynamicSplashManager, InitOptions } from "../types";
@@ -47,7 +47,7 @@ export class DynamicSplashManagerImpl implements DynamicSplashManager {
 	async hide(): Promise<void> {
 		this.options.logger?.("[DynamicSplash] Hide requested");
 		try {
-			NativeModules.DynamicSplashNative?.hide?.();
+			getSplashNativeModule()?.hide?.();
 		} catch (e) {
 			console.warn("[DynamicSplash] Failed to call native hide()", e);
 		}
@@ -55,8 +55,7 @@ export class DynamicSplashManagerImpl implements DynamicSplashManager {
 
 	async isVisible(): Promise<boolean> {
 		try {
-			const nativeShowing =
-				await NativeModules.DynamicSplashNative?.isShowing?.();
+			const nativeShowing = await getSplashNativeModule()?.isShowing?.();
 			return nativeShowing === true;
 		} catch {
 			return false;
@@ -1,9 +1,21 @@
-import { NativeModules } from "react-native";
 import { DynamicSplashManagerImpl } from "./core/DynamicSplashManager";
-import type { InitOptions } from "./types";
+import {
+	addSplashEventListener,
+	type SplashEventSubscription,
+	waitForSplashEvent,
+} from "./services/events";
+import { getSplashNativeModule } from "./services/nativeModules";
+import type {
+	InitOptions,
+	SplashEvent,
+	SplashEventType,
+	SplashMetrics,
+} from "./types";
 
 export { DynamicSplashManagerImpl } from "./core/DynamicSplashManager";
+export type { SplashEventSubscription } from "./services/events";
 export * from "./types";
+export { measureNativeCallLatency } from "./utils/benchmark";
 
 let _manager: DynamicSplashManagerImpl | null = null;
 
@@ -26,7 +38,7 @@ export const DynamicSplash = {
 			);
 		}
 		try {
-			NativeModules.DynamicSplashNative?.hide?.();
+			getSplashNativeModule()?.hide?.();
 		} catch (e) {
 			console.warn("[DynamicSplash] Failed to call native hide()", e);
 		}
@@ -36,12 +48,26 @@ export const DynamicSplash = {
 			return await _manager.isVisible();
 		} else {
 			try {
-				const nativeShowing =
-					await NativeModules.DynamicSplashNative?.isShowing?.();
+				const nativeShowing = await getSplashNativeModule()?.isShowing?.();
 				return nativeShowing === true;
 			} catch {
 				return false;
 			}
 		}
 	},
+	getMetrics: async (): Promise<SplashMetrics | null> => {
+		try {
+			const metrics = await getSplashNativeModule()?.getMetrics?.();
+			return (metrics as SplashMetrics | undefined) ?? null;
+		} catch {
+			return null;
+		}
+	},
+	addListener: (
+		listener: (event: SplashEvent) => void,
+	): SplashEventSubscription => addSplashEventListener(listener),
+	waitFor: (
+		type: SplashEventType,
+		options?: { timeoutMs?: number },
+	): Promise<SplashEvent | null> => waitForSplashEvent(type, options),
 };
@@ -0,0 +1,110 @@
+import { NativeEventEmitter, NativeModules } from "react-native";
+import {
+	addSplashEventListener,
+	SPLASH_EVENT_NAME,
+	waitForSplashEvent,
+} from "../events";
+
+describe("events", () => {
+	const emitter = new NativeEventEmitter(NativeModules.DynamicSplashNative);
+
+	beforeEach(() => {
+		jest.clearAllMocks();
+	});
+
+	describe("addSplashEventListener", () => {
+		it("forwards native events to the listener", () => {
+			const listener = jest.fn();
+			const subscription = addSplashEventListener(listener);
+			const event = { type: "shown", timestampMs: 100, sinceShownMs: 0 };
+
+			emitter.emit(SPLASH_EVENT_NAME, event);
+
+			expect(listener).toHaveBeenCalledWith(event);
+			subscription.remove();
+		});
+
+		it("stops forwarding after remove()", () => {
+			const listener = jest.fn();
+			const subscription = addSplashEventListener(listener);
+
+			subscription.remove();
+			emitter.emit(SPLASH_EVENT_NAME, { type: "hidden" });
+
+			expect(listener).not.toHaveBeenCalled();
+		});
+	});
+
+	describe("waitForSplashEvent", () => {
+		it("resolves when the matching event is emitted", async () => {
+			(
+				NativeModules.DynamicSplashNative.getMetrics as jest.Mock
+			).mockResolvedValue({ events: {} });
+
+			const promise = waitForSplashEvent("hidden");
+			emitter.emit(SPLASH_EVENT_NAME, {
+				type: "hideRequested",
+				timestampMs: 100,
+				sinceShownMs: 50,
+			});
+			emitter.emit(SPLASH_EVENT_NAME, {
+				type: "hidden",
+				timestampMs: 300,
+				sinceShownMs: 250,
+			});
+
+			await expect(promise).resolves.toEqual({
+				type: "hidden",
+				timestampMs: 300,
+				sinceShownMs: 250,
+			});
+			expect(emitter.listenerCount(SPLASH_EVENT_NAME)).toBe(0);
+		});
+
+		it("resolves from recorded metrics when the event already happened", async () => {
+			(
+				NativeModules.DynamicSplashNative.getMetrics as jest.Mock
+			).mockResolvedValue({
+				events: { shown: 1000, firstFrameDrawn: 1016 },
+			});
+
+			const event = await waitForSplashEvent("firstFrameDrawn");
+
+			expect(event).toEqual({
+				type: "firstFrameDrawn",
+				timestampMs: 1016,
+				sinceShownMs: 16,
+			});
+		});
+
+		it("resolves null after the timeout", async () => {
+			jest.useFakeTimers();
+			(
+				NativeModules.DynamicSplashNative.getMetrics as jest.Mock
+			).mockResolvedValue(undefined);
+
+			const promise = waitForSplashEvent("hidden", { timeoutMs: 500 });
+			jest.advanceTimersByTime(500);
+
+			await expect(promise).resolves.toBeNull();
+			jest.useRealTimers();
+		});
+
+		it("resolves null immediately when the native module has no events", async () => {
+			const nativeModule = NativeModules.DynamicSplashNative as Record<
+				string,
+				unknown
+			>;
+			const { addListener, getMetrics } = nativeModule;
+			delete nativeModule.addListener;
+			delete nativeModule.getMetrics;
+
+			try {
+				await expect(waitForSplashEvent("hidden")).resolves.toBeNull();
+			} finally {
+				nativeModule.addListener = addListener;
+				nativeModule.getMetrics = getMetrics;
+			}
+		});
+	});
+});
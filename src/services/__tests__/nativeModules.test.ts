@@ -0,0 +1,36 @@
+describe("nativeModules", () => {
+	beforeEach(() => {
+		jest.resetModules();
+	});
+
+	it("falls back to legacy NativeModules when no TurboModule is registered", () => {
+		const { NativeModules } = require("react-native");
+		const {
+			getSplashNativeModule,
+			getSplashStorageModule,
+		} = require("../nativeModules");
+
+		expect(getSplashNativeModule()).toBe(NativeModules.DynamicSplashNative);
+		expect(getSplashStorageModule()).toBe(NativeModules.DynamicSplashStorage);
+	});
+
+	it("prefers the TurboModule when one is registered", () => {
+		const turboNative = { isShowing: () => true };
+		const turboStorage = { getStringSync: () => null };
+		jest.doMock("../../specs/NativeDynamicSplashNative", () => ({
+			__esModule: true,
+			default: turboNative,
+		}));
+		jest.doMock("../../specs/NativeDynamicSplashStorage", () => ({
+			__esModule: true,
+			default: turboStorage,
+		}));
+		const {
+			getSplashNativeModule,
+			getSplashStorageModule,
+		} = require("../nativeModules");
+
+		expect(getSplashNativeModule()).toBe(turboNative);
+		expect(getSplashStorageModule()).toBe(turboStorage);
+	});
+});
@@ -357,6 +357,35 @@ describe("sync", () => {
 			);
 		});
 
+		it("stores autoHideOnFirstRender", async () => {
+			const options = createOptions({
+				autoHideOnFirstRender: true,
+			});
+
+			await processSplashConfig(validConfig, options, mockStorage, mockFs);
+
+			expect(mockStorage.setMeta).toHaveBeenCalledWith(
+				expect.objectContaining({
+					autoHideOnFirstRender: true,
+				}),
+			);
+		});
+
+		it("stores qualityTiers", async () => {
+			const qualityTiers = {
+				staticMaxMemoryClassMb: 96,
+				reducedResolutionScale: 0.6,
+				forceTier: "reduced" as const,
+			};
+			const options = createOptions({ qualityTiers });
+
+			await processSplashConfig(validConfig, options, mockStorage, mockFs);
+
+			expect(mockStorage.setMeta).toHaveBeenCalledWith(
+				expect.objectContaining({ qualityTiers }),
+			);
+		});
+
 		it("calls native show() when showOnUpdate is true", async () => {
 			const options = createOptions({
 				showOnUpdate: true,
@@ -0,0 +1,112 @@
+import { NativeEventEmitter } from "react-native";
+import type { SplashEvent, SplashEventType, SplashMetrics } from "../types";
+import {
+	getSplashNativeModule,
+	type SplashNativeModule,
+} from "./nativeModules";
+
+export const SPLASH_EVENT_NAME = "DynamicSplashEvent";
+
+export type SplashEventSubscription = { remove: () => void };
+
+type SplashEventModule = SplashNativeModule & {
+	addListener(eventName: string): void;
+	removeListeners(count: number): void;
+	getMetrics(): Promise<unknown>;
+};
+
+let emitter: NativeEventEmitter | null = null;
+
+/**
+ * Lifecycle events are only implemented by the Android module; iOS exposes neither
+ * addListener nor getMetrics.
+ */
+function getEventModule(): SplashEventModule | null {
+	const nativeModule = getSplashNativeModule();
+	if (
+		typeof nativeModule?.addListener === "function" &&
+		typeof nativeModule?.removeListeners === "function" &&
+		typeof nativeModule?.getMetrics === "function"
+	) {
+		return nativeModule as SplashEventModule;
+	}
+	return null;
+}
+
+function getEmitter(): NativeEventEmitter | null {
+	if (emitter) return emitter;
+	const nativeModule = getEventModule();
+	if (!nativeModule) return null;
+	emitter = new NativeEventEmitter(nativeModule);
+	return emitter;
+}
+
+export function addSplashEventListener(
+	listener: (event: SplashEvent) => void,
+): SplashEventSubscription {
+	try {
+		const eventEmitter = getEmitter();
+		if (!eventEmitter) return { remove: () => {} };
+		const subscription = eventEmitter.addListener(SPLASH_EVENT_NAME, listener);
+		return { remove: () => subscription.remove() };
+	} catch (e) {
+		console.warn("[DynamicSplash] Failed to subscribe to native events", e);
+		return { remove: () => {} };
+	}
+}
+
+async function getRecordedEvent(
+	type: SplashEventType,
+): Promise<SplashEvent | null> {
+	try {
+		const metrics = (await getEventModule()?.getMetrics()) as
+			| SplashMetrics
+			| undefined;
+		const timestampMs = metrics?.events?.[type];
+		if (typeof timestampMs !== "number") return null;
+		const shownAt = metrics?.events?.shown;
+		return {
+			type,
+			timestampMs,
+			sinceShownMs: typeof shownAt === "number" ? timestampMs - shownAt : -1,
+		};
+	} catch {
+		return null;
+	}
+}
+
+/**
+ * Resolves with the first matching event. Events emitted before JS subscribed are
+ * read back from native metrics, so no polling is needed. Resolves null on timeout,
+ * and immediately on platforms without native events.
+ */
+export function waitForSplashEvent(
+	type: SplashEventType,
+	options?: { timeoutMs?: number },
+): Promise<SplashEvent | null> {
+	if (!getEventModule()) return Promise.resolve(null);
+	return new Promise<SplashEvent | null>((resolve) => {
+		let settled = false;
+		let timer: ReturnType<typeof setTimeout> | undefined;
+
+		const finish = (event: SplashEvent | null) => {
+			if (settled) return;
+			settled = true;
+			subscription.remove();
+			if (timer) clearTimeout(timer);
+			resolve(event);
+		};
+
+		const subscription = addSplashEventListener((event) => {
+			if (event?.type === type) finish(event);
+		});
+
+		if (options?.timeoutMs) {
+			timer = setTimeout(() => finish(null), options.timeoutMs);
+		}
+
+		void getRecordedEvent(type).then((event) => {
+			if (event) finish(event);
+		});
+	});
+}
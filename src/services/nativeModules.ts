@@ -0,0 +1,58 @@
+import { NativeModules } from "react-native";
+import NativeDynamicSplashNative, {
+	type Spec as NativeSplashSpec,
+} from "../specs/NativeDynamicSplashNative";
+import NativeDynamicSplashStorage, {
+	type Spec as NativeStorageSpec,
+} from "../specs/NativeDynamicSplashStorage";
+
+/**
+ * Legacy bridge module served by Android on the Old Architecture and by iOS. Reads that
+ * are synchronous in the TurboModule spec return Promises here, and iOS has no events.
+ */
+export type LegacySplashNativeModule = {
+	show(): void;
+	hide(): void;
+	setStorageKey(key: string): void;
+	/** Synchronous on legacy Android, a Promise on iOS. */
+	getStorageKey(): string | Promise<string>;
+	getLastLoadedMeta(): Promise<string | null>;
+	isShowing(): Promise<boolean>;
+	getMetrics?(): Promise<unknown>;
+	addListener?(eventName: string): void;
+	removeListeners?(count: number): void;
+};
+
+export type LegacySplashStorageModule = {
+	getStringSync?(key: string): string | null;
+	getString?(key: string): Promise<string | null>;
+	setString(key: string, value: string | null): void;
+	remove(key: string): void;
+};
+
+/**
+ * Either shape can be returned, so callers must await read results rather than rely on
+ * the synchronous TurboModule signatures.
+ */
+export type SplashNativeModule = NativeSplashSpec | LegacySplashNativeModule;
+export type SplashStorageModule = NativeStorageSpec | LegacySplashStorageModule;
+
+/**
+ * Resolves the native modules, preferring the TurboModule (direct JSI calls) on the
+ * New Architecture and falling back to the legacy bridge module.
+ */
+export function getSplashNativeModule(): SplashNativeModule | undefined {
+	return (
+		NativeDynamicSplashNative ??
+		(NativeModules.DynamicSplashNative as LegacySplashNativeModule | undefined)
+	);
+}
+
+export function getSplashStorageModule(): SplashStorageModule | undefined {
+	return (
+		NativeDynamicSplashStorage ??
+		(NativeModules.DynamicSplashStorage as
+			| LegacySplashStorageModule
+			| undefined)
+	);
+}
@@ -1,18 +1,15 @@
-import { NativeModules } from "react-native";
 import type { InitOptions, StoredMeta } from "../types";
+import {
+	getSplashNativeModule,
+	getSplashStorageModule,
+	type SplashStorageModule,
+} from "./nativeModules";
 
 const DEFAULT_KEY = "DYNAMIC_SPLASH_META_V1";
 const EMPTY_META: StoredMeta = { status: "EMPTY" };
 
-type NativeStorageModule = {
-	getStringSync?: (key: string) => string | null;
-	getString?: (key: string) => Promise<string | null>;
-	setString: (key: string, value: string) => void;
-	remove: (key: string) => void;
-};
-
 export class SplashStorage {
-	private nativeStorage?: NativeStorageModule;
+	private nativeStorage?: SplashStorageModule;
 	private key: string;
 	private cache: StoredMeta = EMPTY_META;
 	private hasLocalOverride = false;
@@ -22,11 +19,9 @@ export class SplashStorage {
 
 	constructor(options: InitOptions) {
 		this.key = options.storageKey || DEFAULT_KEY;
-		this.nativeStorage = NativeModules.DynamicSplashStorage as
-			| NativeStorageModule
-			| undefined;
+		this.nativeStorage = getSplashStorageModule();
 		try {
-			NativeModules.DynamicSplashNative?.setStorageKey?.(this.key);
+			getSplashNativeModule()?.setStorageKey?.(this.key);
 		} catch (e) {
 			console.warn(
 				"[DynamicSplash] Failed to set storage key on native module",
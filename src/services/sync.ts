@@ -1,7 +1,7 @@
-import { NativeModules } from "react-native";
 import type { InitOptions, SplashConfig, StoredMeta } from "../types";
 import { isWithinTimeWindow, validateSplashConfig } from "../utils/validation";
 import type { SplashFileSystem } from "./fileSystem";
+import { getSplashNativeModule } from "./nativeModules";
 import type { SplashStorage } from "./storage";
 
 export async function performBackgroundUpdate(
@@ -140,13 +140,15 @@ export async function processSplashConfig(
 		scaleEasing: scale?.easing,
 		minDurationMs: options.minDurationMs,
 		maxDurationMs: options.maxDurationMs,
+		autoHideOnFirstRender: options.autoHideOnFirstRender,
+		qualityTiers: options.qualityTiers,
 	};
 
 	storage.setMeta(newMeta);
 	logger?.("[DynamicSplash] Config processed and saved. READY for next launch");
 	if (options.showOnUpdate) {
 		try {
-			NativeModules.DynamicSplashNative?.show?.();
+			getSplashNativeModule()?.show?.();
 		} catch (e) {
 			console.warn("[DynamicSplash] Failed to call native show()", e);
 		}
@@ -0,0 +1,18 @@
+import type { TurboModule } from "react-native";
+import { TurboModuleRegistry } from "react-native";
+
+export interface Spec extends TurboModule {
+	show(): void;
+	hide(): void;
+	setStorageKey(key: string): void;
+	getStorageKey(): string;
+	/** Synchronous on the New Architecture; the legacy module returns a Promise. */
+	getLastLoadedMeta(): string | null;
+	/** Synchronous on the New Architecture; the legacy module returns a Promise. */
+	isShowing(): boolean;
+	getMetrics(): Promise<Object>;
+	addListener(eventName: string): void;
+	removeListeners(count: number): void;
+}
+
+export default TurboModuleRegistry.get<Spec>("DynamicSplashNative");
@@ -0,0 +1,11 @@
+import type { TurboModule } from "react-native";
+import { TurboModuleRegistry } from "react-native";
+
+export interface Spec extends TurboModule {
+	getStringSync(key: string): string | null;
+	getString(key: string): Promise<string | null>;
+	setString(key: string, value: string | null): void;
+	remove(key: string): void;
+}
+
+export default TurboModuleRegistry.get<Spec>("DynamicSplashStorage");
@@ -1,3 +1,22 @@
+export type SplashQualityTier = "full" | "reduced" | "static";
+
+export interface QualityTierOptions {
+	/** Memory class (MB) at or below which the static tier is used (default: 128). */
+	staticMaxMemoryClassMb?: number;
+	/** CPU core count at or below which the static tier is used (default: 2). */
+	staticMaxCpuCount?: number;
+	/** Memory class (MB) at or below which the reduced tier is used (default: 192). */
+	reducedMaxMemoryClassMb?: number;
+	/** CPU core count at or below which the reduced tier is used (default: 4). */
+	reducedMaxCpuCount?: number;
+	/** Display refresh rate (Hz) below which the reduced tier is used, compared after rounding (default: 60). */
+	reducedBelowRefreshRateHz?: number;
+	/** Decode resolution scale in the reduced tier, 0-1 (default: 0.5). */
+	reducedResolutionScale?: number;
+	/** Skip classification and always use this tier (default: none). */
+	forceTier?: SplashQualityTier;
+}
+
 export interface SplashConfig {
 	/** Image identifier used as the cache key and file name. */
 	imageName: string;
@@ -60,6 +79,71 @@ export interface StoredMeta {
 	minDurationMs?: number;
 	/** Maximum time to keep splash visible in milliseconds (from InitOptions). */
 	maxDurationMs?: number;
+	/** Hide natively once React content first renders (from InitOptions). */
+	autoHideOnFirstRender?: boolean;
+	/** Device-class quality tier thresholds (from InitOptions). */
+	qualityTiers?: QualityTierOptions;
+}
+
+export type SplashEventType =
+	| "shown"
+	| "firstFrameDrawn"
+	| "hideRequested"
+	| "minDurationSatisfied"
+	| "maxDurationExpired"
+	| "hidden";
+
+export interface SplashEvent {
+	/** Lifecycle stage that was reached. */
+	type: SplashEventType;
+	/** Monotonic timestamp (ms since device boot, SystemClock.elapsedRealtime). */
+	timestampMs: number;
+	/** Milliseconds since the splash was shown (-1 if unknown). */
+	sinceShownMs: number;
+}
+
+export interface SplashMetrics {
+	/** Number of memory trims that released a decoded splash image. */
+	trimCount: number;
+	/** Trim level of the most recent releasing trim (-1 if none). */
+	lastTrimLevel: number;
+	/** Estimated bytes released by the most recent releasing trim. */
+	lastReleasedBytes: number;
+	/** Estimated bytes released across all trims. */
+	totalReleasedBytes: number;
+	/** Estimated bytes of decoded splash image currently held; 0 once the splash is gone. */
+	cachedBytes: number;
+	/** Monotonic timestamps of lifecycle events for the current splash. */
+	events?: Partial<Record<SplashEventType, number>>;
+	/** Rendering tier chosen at startup for the current splash. */
+	qualityTier?: SplashQualityTier;
+	/** Device characteristics used to choose the quality tier. */
+	device?: {
+		lowRamDevice: boolean;
+		memoryClassMb: number;
+		cpuCount: number;
+		refreshRateHz: number;
+	};
+}
+
+export interface NativeCallLatency {
+	/** Native method that was called. */
+	method: string;
+	/** Number of calls measured. */
+	iterations: number;
+	/** Mean latency per call in microseconds. */
+	meanUs: number;
+	/** Median latency per call in microseconds. */
+	p50Us: number;
+	/** 95th percentile latency per call in microseconds. */
+	p95Us: number;
+}
+
+export interface NativeLatencyReport {
+	/** Architecture the measurements were taken on. */
+	architecture: "new" | "legacy";
+	/** Per-method latency results. */
+	results: NativeCallLatency[];
 }
 
 export interface DynamicSplashManager {
@@ -78,6 +162,18 @@ export interface InitOptions {
 	minDurationMs?: number;
 	/** Maximum time to keep splash visible (ms). Default: no maximum. */
 	maxDurationMs?: number;
+	/**
+	 * Hide natively as soon as React content first renders, without waiting for a JS
+	 * hide() call. minDurationMs is still respected. Android only (default: false).
+	 */
+	autoHideOnFirstRender?: boolean;
+	/**
+	 * Device-class thresholds for splash rendering quality (Android only).
+	 * - "full": animated playback at full frame rate and resolution.
+	 * - "reduced": animated playback at a lower decode resolution.
+	 * - "static": first frame only, no scale animation.
+	 */
+	qualityTiers?: QualityTierOptions;
 	/**
 	 * Animation settings for show/hide.
 	 * - fade: hide-only fade-out.
@@ -0,0 +1,53 @@
+import { NativeModules } from "react-native";
+import { measureNativeCallLatency } from "../benchmark";
+
+describe("measureNativeCallLatency", () => {
+	beforeEach(() => {
+		jest.clearAllMocks();
+	});
+
+	it("measures every available read method", async () => {
+		(
+			NativeModules.DynamicSplashNative.isShowing as jest.Mock
+		).mockResolvedValue(false);
+		(
+			NativeModules.DynamicSplashNative.getLastLoadedMeta as jest.Mock
+		).mockResolvedValue(null);
+		(
+			NativeModules.DynamicSplashNative.getStorageKey as jest.Mock
+		).mockReturnValue("DYNAMIC_SPLASH_META_V1");
+		(
+			NativeModules.DynamicSplashStorage.getStringSync as jest.Mock
+		).mockReturnValue(null);
+
+		const report = await measureNativeCallLatency(5);
+
+		expect(report.architecture).toBe("legacy");
+		expect(report.results.map((result) => result.method)).toEqual([
+			"isShowing",
+			"getLastLoadedMeta",
+			"getStorageKey",
+			"getStringSync",
+		]);
+		for (const result of report.results) {
+			expect(result.iterations).toBe(5);
+			expect(result.meanUs).toBeGreaterThanOrEqual(0);
+			expect(result.p95Us).toBeGreaterThanOrEqual(result.p50Us);
+		}
+		expect(
+			NativeModules.DynamicSplashNative.isShowing,
+		).toHaveBeenCalledTimes(5);
+		expect(
+			NativeModules.DynamicSplashStorage.getStringSync,
+		).toHaveBeenCalledWith("DYNAMIC_SPLASH_META_V1");
+	});
+
+	it("reports the new architecture when the TurboModule proxy is present", async () => {
+		(globalThis as any).__turboModuleProxy = () => null;
+
+		const report = await measureNativeCallLatency(1);
+
+		expect(report.architecture).toBe("new");
+		delete (globalThis as any).__turboModuleProxy;
+	});
+});
@@ -0,0 +1,92 @@
+import {
+	getSplashNativeModule,
+	getSplashStorageModule,
+} from "../services/nativeModules";
+import type { NativeCallLatency, NativeLatencyReport } from "../types";
+
+const DEFAULT_STORAGE_KEY = "DYNAMIC_SPLASH_META_V1";
+
+function now(): number {
+	return typeof performance !== "undefined" ? performance.now() : Date.now();
+}
+
+function isNewArchitecture(): boolean {
+	const g = globalThis as any;
+	return g.RN$Bridgeless === true || g.__turboModuleProxy != null;
+}
+
+function percentile(sorted: number[], p: number): number {
+	if (sorted.length === 0) return 0;
+	const index = Math.min(
+		sorted.length - 1,
+		Math.max(0, Math.ceil((p / 100) * sorted.length) - 1),
+	);
+	return sorted[index];
+}
+
+async function measure(
+	method: string,
+	iterations: number,
+	call: () => unknown,
+): Promise<NativeCallLatency> {
+	const samples: number[] = [];
+	for (let i = 0; i < iterations; i++) {
+		const start = now();
+		const result = call();
+		// Legacy bridge calls return a Promise; TurboModule reads return directly
+		if (result && typeof (result as Promise<unknown>).then === "function") {
+			await result;
+		}
+		samples.push((now() - start) * 1000);
+	}
+	samples.sort((a, b) => a - b);
+	const total = samples.reduce((sum, value) => sum + value, 0);
+	return {
+		method,
+		iterations,
+		meanUs: samples.length ? total / samples.length : 0,
+		p50Us: percentile(samples, 50),
+		p95Us: percentile(samples, 95),
+	};
+}
+
+/**
+ * Measures per-call latency of the native read methods. Run it once with the New
+ * Architecture enabled and once with it disabled to compare JSI and bridge calls.
+ */
+export async function measureNativeCallLatency(
+	iterations = 200,
+): Promise<NativeLatencyReport> {
+	const nativeModule = getSplashNativeModule();
+	const storageModule = getSplashStorageModule();
+	const results: NativeCallLatency[] = [];
+
+	if (nativeModule) {
+		results.push(
+			await measure("isShowing", iterations, () => nativeModule.isShowing()),
+		);
+		results.push(
+			await measure("getLastLoadedMeta", iterations, () =>
+				nativeModule.getLastLoadedMeta(),
+			),
+		);
+		results.push(
+			await measure("getStorageKey", iterations, () =>
+				nativeModule.getStorageKey(),
+			),
+		);
+	}
+	const getStringSync = storageModule?.getStringSync;
+	if (storageModule && typeof getStringSync === "function") {
+		results.push(
+			await measure("getStringSync", iterations, () =>
+				getStringSync.call(storageModule, DEFAULT_STORAGE_KEY),
+			),
+		);
+	}
+
+	return {
+		architecture: isNewArchitecture() ? "new" : "legacy",
+		results,
+	};
+}